@@ -0,0 +1,87 @@
+package com.consultation.controller;
+
+import com.consultation.journal.ConsultationJournal;
+import com.consultation.journal.JournalSubscription;
+import com.consultation.journal.SessionIdPseudonymizer;
+import com.consultation.journal.SseJournalSubscriber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RestController
+@ConditionalOnProperty(value = "consultation.journal.stream.enabled", havingValue = "true")
+@RequestMapping("/api/consultation/journal")
+public class ConsultationJournalController {
+
+    private final ConsultationJournal journal;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final int maxConnections;
+    private final SessionIdPseudonymizer pseudonymizer = new SessionIdPseudonymizer();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    public ConsultationJournalController(
+            ConsultationJournal journal,
+            @Value("${consultation.journal.stream.timeout:PT5M}") Duration timeout,
+            @Value("${consultation.journal.stream.heartbeat:PT15S}") Duration heartbeat,
+            @Value("${consultation.journal.stream.max-connections:8}") int maxConnections
+    ) {
+        this.journal = journal;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.maxConnections = maxConnections;
+    }
+
+    // Reconnecting clients send Last-Event-ID and resume from the next event still in the journal.
+    // Every stream holds a journal thread, so the number of open streams is capped.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        if (openStreams.incrementAndGet() > maxConnections) {
+            openStreams.decrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        // Completion, timeout, error and failed sends can all close one stream; release its slot once.
+        // Cancelling is idempotent, and a stream closed before it was subscribed is cancelled below.
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<JournalSubscription> subscription = new AtomicReference<>();
+        Runnable close = () -> {
+            if (closed.compareAndSet(false, true)) {
+                openStreams.decrementAndGet();
+            }
+            JournalSubscription current = subscription.get();
+            if (current != null) {
+                current.cancel();
+            }
+        };
+
+        SseJournalSubscriber subscriber = new SseJournalSubscriber(emitter, pseudonymizer, heartbeat, close);
+        subscription.set(lastEventId == null
+                ? journal.subscribe(subscriber)
+                : journal.resumeAfter(subscriber, lastEventId));
+        if (closed.get()) {
+            subscription.get().cancel();
+        }
+
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -0,0 +1,22 @@
+package com.consultation.journal;
+
+import java.time.Instant;
+
+/**
+ * Immutable copy of a journal entry, handed to subscribers on their own thread.
+ * Fields that do not apply to the event type are {@code null}.
+ */
+public record ConsultationEvent(
+        long sequence,
+        ConsultationEventType type,
+        Instant timestamp,
+        String sessionId,
+        String questionId,
+        String value,
+        String previousValue,
+        Boolean likelyToPrescribe
+) {
+    public ConsultationEvent withSessionId(String sessionId) {
+        return new ConsultationEvent(sequence, type, timestamp, sessionId, questionId, value, previousValue, likelyToPrescribe);
+    }
+}
@@ -0,0 +1,7 @@
+package com.consultation.journal;
+
+public enum ConsultationEventType {
+    ANSWER_RECORDED,
+    ANSWER_CHANGED,
+    DECISION_READ
+}
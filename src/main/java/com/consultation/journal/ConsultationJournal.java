@@ -0,0 +1,350 @@
+package com.consultation.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, in-process ring buffer of consultation events with any number of subscribers.
+ *
+ * <p>Slots are allocated up front and overwritten in place, so publishing does not allocate.
+ * Publishers never wait for subscribers: once a subscriber is a full ring behind, the oldest
+ * entries are overwritten and the subscriber is told how many it missed via
+ * {@link JournalSubscriber#onOverrun(long)}. Idle subscriber threads block until the next publish,
+ * or until the subscriber's {@link JournalSubscriber#idleInterval()} elapses.
+ *
+ * <p>Subscriber threads run between {@link #start()} and {@link #stop()}. The journal starts before
+ * and stops after the embedded web server, so events from in-flight requests still reach the sinks;
+ * lifecycle stop also precedes bean destruction, so sinks are still open while the journal drains.
+ */
+@Component
+public class ConsultationJournal implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsultationJournal.class);
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long EMPTY = -1L;
+    private static final long WRITING = -2L;
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Slot[] slots;
+    private final int mask;
+    // Also the lock for subscribe/start/stop.
+    private final List<Consumer> consumers = new ArrayList<>();
+    // Idle consumers wait on this; publishers only touch it when someone is waiting.
+    private final Object signal = new Object();
+
+    // Guarded by "this"; only publishers touch it.
+    private long nextSequence = 0;
+    // Highest fully written sequence; read by consumers.
+    private volatile long cursor = EMPTY;
+    private volatile boolean running = false;
+    // Guarded by "signal".
+    private volatile int waiters = 0;
+
+    public ConsultationJournal(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Journal capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+    }
+
+    @Autowired
+    public ConsultationJournal(
+            @Value("${consultation.journal.capacity:1024}") int capacity,
+            ObjectProvider<JournalSubscriber> subscribers
+    ) {
+        this(capacity);
+        subscribers.orderedStream().forEach(this::subscribe);
+    }
+
+    public void recordAnswer(String sessionId, String questionId, String value, String previousValue) {
+        ConsultationEventType type = previousValue == null || previousValue.equals(value)
+                ? ConsultationEventType.ANSWER_RECORDED
+                : ConsultationEventType.ANSWER_CHANGED;
+        publish(type, sessionId, questionId, value, previousValue, null);
+    }
+
+    public void recordDecision(String sessionId, boolean likelyToPrescribe) {
+        publish(ConsultationEventType.DECISION_READ, sessionId, null, null, null, likelyToPrescribe);
+    }
+
+    /**
+     * Delivers events published from now on to {@code subscriber} on a dedicated daemon thread.
+     */
+    public JournalSubscription subscribe(JournalSubscriber subscriber) {
+        return subscribe(subscriber, cursor + 1);
+    }
+
+    /**
+     * Delivers events published after {@code lastSequence}, e.g. a client's last seen event id.
+     * A sequence that was never published (negative or beyond the latest) means "from now".
+     */
+    public JournalSubscription resumeAfter(JournalSubscriber subscriber, long lastSequence) {
+        long latest = cursor;
+        return subscribe(subscriber, lastSequence < 0 || lastSequence >= latest ? latest + 1 : lastSequence + 1);
+    }
+
+    /**
+     * Delivers events from {@code fromSequence} onwards to {@code subscriber} on a dedicated daemon thread.
+     * Events already overwritten are reported through {@link JournalSubscriber#onOverrun(long)}; a sequence
+     * outside the published range means "from now".
+     */
+    public JournalSubscription subscribe(JournalSubscriber subscriber, long fromSequence) {
+        synchronized (consumers) {
+            long next = cursor + 1;
+            Consumer consumer = new Consumer(subscriber, fromSequence < 0 || fromSequence > next ? next : fromSequence);
+            consumers.add(consumer);
+            if (running) {
+                consumer.start();
+            }
+            return consumer;
+        }
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    @Override
+    public void start() {
+        synchronized (consumers) {
+            if (running) {
+                return;
+            }
+            running = true;
+            consumers.forEach(Consumer::start);
+        }
+    }
+
+    /**
+     * Lets every subscriber drain what has been published so far, then stops its thread.
+     */
+    @Override
+    public void stop() {
+        List<Consumer> stopping;
+        synchronized (consumers) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = List.copyOf(consumers);
+        }
+        wakeConsumers();
+
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        for (Consumer consumer : stopping) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                log.warn("Journal subscribers did not drain within {} ms", STOP_TIMEOUT_MILLIS);
+                return;
+            }
+            try {
+                consumer.thread.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private synchronized void publish(
+            ConsultationEventType type,
+            String sessionId,
+            String questionId,
+            String value,
+            String previousValue,
+            Boolean likelyToPrescribe
+    ) {
+        long sequence = nextSequence++;
+        Slot slot = slots[(int) (sequence & mask)];
+
+        // Mark the slot first so a lagging reader of the previous lap sees the overwrite.
+        slot.sequence = WRITING;
+        slot.type = type;
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.sessionId = sessionId;
+        slot.questionId = questionId;
+        slot.value = value;
+        slot.previousValue = previousValue;
+        slot.likelyToPrescribe = likelyToPrescribe;
+        slot.sequence = sequence;
+
+        cursor = sequence;
+        // A consumer registers as a waiter before re-checking the cursor, so either it sees
+        // this sequence or we see it waiting.
+        if (waiters > 0) {
+            wakeConsumers();
+        }
+    }
+
+    private void wakeConsumers() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    private static final class Slot {
+        volatile long sequence = EMPTY;
+        volatile ConsultationEventType type;
+        volatile long timestampMillis;
+        volatile String sessionId;
+        volatile String questionId;
+        volatile String value;
+        volatile String previousValue;
+        volatile Boolean likelyToPrescribe;
+
+        /**
+         * Copies the slot if it still holds {@code expected}, otherwise returns {@code null}.
+         */
+        ConsultationEvent read(long expected) {
+            if (sequence != expected) {
+                return null;
+            }
+            ConsultationEvent event = new ConsultationEvent(
+                    expected,
+                    type,
+                    Instant.ofEpochMilli(timestampMillis),
+                    sessionId,
+                    questionId,
+                    value,
+                    previousValue,
+                    likelyToPrescribe
+            );
+            return sequence == expected ? event : null;
+        }
+    }
+
+    private final class Consumer implements JournalSubscription, Runnable {
+        private final JournalSubscriber subscriber;
+        private final long idleNanos;
+        private volatile Thread thread;
+        private volatile boolean cancelled = false;
+        private long next;
+
+        Consumer(JournalSubscriber subscriber, long next) {
+            this.subscriber = subscriber;
+            this.idleNanos = subscriber.idleInterval().toNanos();
+            this.next = next;
+        }
+
+        // A thread that did not drain within the stop timeout simply carries on after a restart;
+        // starting a second one would have both advancing "next".
+        void start() {
+            if (thread != null && thread.isAlive()) {
+                return;
+            }
+            thread = new Thread(this, "journal-" + subscriber.getClass().getSimpleName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            synchronized (consumers) {
+                consumers.remove(this);
+            }
+            wakeConsumers();
+        }
+
+        @Override
+        public void run() {
+            while (!cancelled && !Thread.currentThread().isInterrupted()) {
+                long available = cursor;
+                if (next > available) {
+                    if (!running) {
+                        return;
+                    }
+                    if (!awaitPublish()) {
+                        try {
+                            subscriber.onIdle();
+                        } catch (RuntimeException e) {
+                            log.warn("Journal subscriber {} failed while idle", subscriber, e);
+                        }
+                    }
+                    continue;
+                }
+
+                long oldest = available - slots.length + 1;
+                if (next < oldest) {
+                    long missed = oldest - next;
+                    next = oldest;
+                    try {
+                        subscriber.onOverrun(missed);
+                    } catch (RuntimeException e) {
+                        log.warn("Journal subscriber {} failed on overrun of {} events", subscriber, missed, e);
+                    }
+                }
+
+                ConsultationEvent event = slots[(int) (next & mask)].read(next);
+                if (event == null) {
+                    // Overwritten while we were reading; the overrun check above catches up.
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (cancelled) {
+                    return;
+                }
+                next++;
+
+                try {
+                    subscriber.onEvent(event);
+                } catch (RuntimeException e) {
+                    log.warn("Journal subscriber {} failed on event {}", subscriber, event.sequence(), e);
+                }
+            }
+        }
+
+        // Blocks until something is published, the journal stops or this subscription is cancelled;
+        // returns false if the subscriber's idle interval elapsed first.
+        private boolean awaitPublish() {
+            synchronized (signal) {
+                waiters++;
+                try {
+                    long deadline = System.nanoTime() + idleNanos;
+                    while (running && !cancelled && next > cursor) {
+                        if (idleNanos == 0) {
+                            signal.wait();
+                            continue;
+                        }
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(signal, remaining);
+                    }
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return true;
+                } finally {
+                    waiters--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.consultation.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends every journal event to a file as one JSON object per line. Missed events are
+ * recorded as a {@link JournalOverrun} line.
+ * Enabled by setting {@code consultation.journal.file}.
+ */
+@Component
+@ConditionalOnProperty("consultation.journal.file")
+public class FileJournalSubscriber implements JournalSubscriber, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileJournalSubscriber(
+            @Value("${consultation.journal.file}") Path file,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void onEvent(ConsultationEvent event) {
+        writeLine(event);
+    }
+
+    @Override
+    public void onOverrun(long missed) {
+        writeLine(JournalOverrun.of(missed));
+    }
+
+    private void writeLine(Object record) {
+        try {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.consultation.journal;
+
+import java.time.Instant;
+
+/**
+ * Marker written by sinks when a subscriber fell a full ring behind. It shares the {@code type}
+ * and {@code timestamp} keys with {@link ConsultationEvent}, so readers can tell the two apart by type.
+ */
+public record JournalOverrun(
+        String type,
+        Instant timestamp,
+        long missed
+) {
+    public static final String TYPE = "OVERRUN";
+
+    public static JournalOverrun of(long missed) {
+        return new JournalOverrun(TYPE, Instant.now(), missed);
+    }
+}
@@ -0,0 +1,30 @@
+package com.consultation.journal;
+
+import java.time.Duration;
+
+/**
+ * Consumer of the consultation journal. Each subscriber is driven by its own thread,
+ * so a slow subscriber only falls behind; it never holds up the request thread.
+ */
+public interface JournalSubscriber {
+
+    void onEvent(ConsultationEvent event);
+
+    /**
+     * Called when the subscriber fell more than a full ring behind and {@code missed}
+     * events were overwritten before it could read them.
+     */
+    default void onOverrun(long missed) {
+    }
+
+    /**
+     * How long the subscriber may go without events before {@link #onIdle()} is called.
+     * Zero, the default, never calls it.
+     */
+    default Duration idleInterval() {
+        return Duration.ZERO;
+    }
+
+    default void onIdle() {
+    }
+}
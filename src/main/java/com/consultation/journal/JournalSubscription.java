@@ -0,0 +1,10 @@
+package com.consultation.journal;
+
+/**
+ * Handle returned by {@link ConsultationJournal#subscribe}; cancelling stops delivery and
+ * releases the subscriber's thread.
+ */
+public interface JournalSubscription {
+
+    void cancel();
+}
@@ -0,0 +1,38 @@
+package com.consultation.journal;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Replaces session ids with a keyed hash before they leave the process. The key is random per
+ * instance, so the same session maps to the same pseudonym for the lifetime of the app, but the
+ * pseudonym cannot be turned back into a usable session id.
+ */
+public class SessionIdPseudonymizer {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PSEUDONYM_BYTES = 16;
+
+    private final SecretKeySpec key;
+
+    public SessionIdPseudonymizer() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    public String pseudonymize(String sessionId) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(sessionId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, PSEUDONYM_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.consultation.journal;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Streams journal events to a single server-sent-events client. Each connection gets its own
+ * subscriber, and so its own journal thread, so a stalled client only falls behind itself.
+ * Session ids are pseudonymized: on this API a session id is all it takes to read or change a consultation.
+ */
+public class SseJournalSubscriber implements JournalSubscriber {
+
+    private final SseEmitter emitter;
+    private final SessionIdPseudonymizer pseudonymizer;
+    private final Duration heartbeat;
+    private final Runnable onFailure;
+    private volatile boolean failed = false;
+
+    /**
+     * @param onFailure run once a send fails, to release the stream without waiting for the
+     *                  container to report the broken connection
+     */
+    public SseJournalSubscriber(
+            SseEmitter emitter,
+            SessionIdPseudonymizer pseudonymizer,
+            Duration heartbeat,
+            Runnable onFailure
+    ) {
+        this.emitter = emitter;
+        this.pseudonymizer = pseudonymizer;
+        this.heartbeat = heartbeat;
+        this.onFailure = onFailure;
+    }
+
+    @Override
+    public void onEvent(ConsultationEvent event) {
+        send(SseEmitter.event()
+                .id(String.valueOf(event.sequence()))
+                .name(event.type().name())
+                .data(event.withSessionId(pseudonymizer.pseudonymize(event.sessionId())), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void onOverrun(long missed) {
+        send(SseEmitter.event()
+                .name(JournalOverrun.TYPE)
+                .data(JournalOverrun.of(missed), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public Duration idleInterval() {
+        return heartbeat;
+    }
+
+    // A comment line is ignored by clients, but writing it is how a disconnected client gets noticed.
+    @Override
+    public void onIdle() {
+        send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+        if (failed) {
+            return;
+        }
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            failed = true;
+            emitter.completeWithError(e);
+            onFailure.run();
+        }
+    }
+}
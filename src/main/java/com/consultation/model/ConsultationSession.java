@@ -2,6 +2,7 @@ package com.consultation.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public record ConsultationSession(
         String sessionId,
@@ -11,8 +12,16 @@ public record ConsultationSession(
         this(sessionId, new ArrayList<>());
     }
 
+    // A later answer to the same question replaces the earlier one.
     public void addAnswer(Answer answer) {
+        answers.removeIf(existing -> existing.questionId().equals(answer.questionId()));
         answers.add(answer);
     }
 
+    public Optional<Answer> findAnswer(String questionId) {
+        return answers.stream()
+                .filter(answer -> answer.questionId().equals(questionId))
+                .findFirst();
+    }
+
 }
\ No newline at end of file
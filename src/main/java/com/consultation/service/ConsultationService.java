@@ -3,6 +3,7 @@ package com.consultation.service;
 import com.consultation.dto.AnswerDto;
 import com.consultation.dto.PrescriptionDecisionDto;
 import com.consultation.dto.QuestionDto;
+import com.consultation.journal.ConsultationJournal;
 import com.consultation.model.Answer;
 import com.consultation.model.ConsultationSession;
 import com.consultation.model.PrescriptionResult;
@@ -11,6 +12,7 @@ import com.consultation.repository.InMemoryConsultationSessionRepository;
 import com.consultation.rule.PrescriptionRules;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -20,8 +22,12 @@ public class ConsultationService {
 
     private final InMemoryConsultationSessionRepository sessionRepository;
 
-    public ConsultationService(InMemoryConsultationSessionRepository sessionRepository) {
+    private final ConsultationJournal journal;
+
+    public ConsultationService(InMemoryConsultationSessionRepository sessionRepository,
+                               ConsultationJournal journal) {
         this.sessionRepository = sessionRepository;
+        this.journal = journal;
     }
 
     public List<QuestionDto> getQuestions() {
@@ -34,11 +40,21 @@ public class ConsultationService {
         ConsultationSession session = sessionRepository.findById(sessionId)
                 .orElse(new ConsultationSession(sessionId));
 
+        List<String> previousValues = new ArrayList<>(answers.size());
         for (AnswerDto dto : answers) {
+            previousValues.add(session.findAnswer(dto.questionId())
+                    .map(Answer::value)
+                    .orElse(null));
             session.addAnswer(new Answer(dto.questionId(), dto.value()));
         }
 
         sessionRepository.save(session);
+
+        // Only journal answers that were actually stored.
+        for (int i = 0; i < answers.size(); i++) {
+            AnswerDto dto = answers.get(i);
+            journal.recordAnswer(sessionId, dto.questionId(), dto.value(), previousValues.get(i));
+        }
     }
 
     public PrescriptionDecisionDto getPrescriptionDecision(String sessionId) {
@@ -47,11 +63,11 @@ public class ConsultationService {
 
         PrescriptionRules rules = new PrescriptionRules(session.answers());
         PrescriptionResult result = rules.evaluate();
+        journal.recordDecision(sessionId, result.likelyToPrescribe());
 
         return new PrescriptionDecisionDto(
                 result.likelyToPrescribe(),
                 result.reasons()
         );
     }
-
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package controller;
+
+import com.consultation.Consultation;
+import com.consultation.journal.ConsultationJournal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+// Talks raw HTTP/1.0 so the test controls when the connection closes and the body is not chunked.
+@SpringBootTest(
+        classes = Consultation.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "consultation.journal.capacity=8",
+                "consultation.journal.stream.enabled=true",
+                "consultation.journal.stream.max-connections=1",
+                "consultation.journal.stream.heartbeat=PT0.1S",
+                "consultation.journal.stream.timeout=PT3S"
+        }
+)
+class ConsultationJournalControllerTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConsultationJournal journal;
+
+    @Test
+    void shouldResumeAfterLastEventIdWithPseudonymizedSessionIds() throws Exception {
+        long lastSeen = lastEventIdAfterPublishing("resume-marker");
+
+        journal.recordDecision("resume-a", true);
+        journal.recordDecision("resume-b", false);
+
+        try (Stream stream = openStream(lastSeen)) {
+            List<String> lines = stream.readUntil("id:" + (lastSeen + 2));
+
+            assertThat(lines).contains("id:" + (lastSeen + 1), "event:DECISION_READ");
+            assertThat(String.join("\n", lines))
+                    .doesNotContain("resume-a")
+                    .doesNotContain("resume-b")
+                    .doesNotContain("OVERRUN");
+        }
+    }
+
+    @Test
+    void shouldSendOverrunWhenResumedEventsAreGone() throws Exception {
+        long lastSeen = lastEventIdAfterPublishing("overrun-marker");
+
+        for (int i = 0; i < 20; i++) {
+            journal.recordDecision("overrun-" + i, true);
+        }
+
+        try (Stream stream = openStream(lastSeen)) {
+            stream.readUntil("event:OVERRUN");
+            List<String> lines = stream.readUntil("\"missed\"");
+
+            // 20 published after the last seen one, but only the latest 8 are still in the ring.
+            assertThat(lines.get(lines.size() - 1)).contains("\"type\":\"OVERRUN\"", "\"missed\":12");
+        }
+    }
+
+    @Test
+    void shouldRejectStreamsBeyondLimitAndReleaseSlotWhenClientDisconnects() throws Exception {
+        try (Stream first = openStream(null)) {
+            first.readUntil(":heartbeat");
+
+            try (Stream rejected = connect(null)) {
+                assertThat(rejected.status).isEqualTo(503);
+            }
+        }
+
+        // The next heartbeat to the closed connection fails, which cancels its subscription.
+        try (Stream next = openStream(null)) {
+            assertThat(next.status).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void shouldReleaseSlotWhenStreamTimesOut() throws Exception {
+        try (Stream stream = openStream(null)) {
+            // The server ends the stream; the client never closes it.
+            stream.readToEnd();
+        }
+
+        try (Stream next = openStream(null)) {
+            assertThat(next.status).isEqualTo(200);
+        }
+    }
+
+    private long lastEventIdAfterPublishing(String sessionId) throws Exception {
+        try (Stream stream = openStream(null)) {
+            stream.readUntil(":heartbeat");
+            journal.recordDecision(sessionId, true);
+            List<String> lines = stream.readUntil("event:DECISION_READ");
+            String id = lines.get(lines.size() - 2);
+            assertThat(id).startsWith("id:");
+            return Long.parseLong(id.substring("id:".length()));
+        }
+    }
+
+    // Retries while the previous test's stream still holds the only slot.
+    private Stream openStream(Long lastEventId) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (true) {
+            Stream stream = connect(lastEventId);
+            if (stream.status == 200) {
+                return stream;
+            }
+            stream.close();
+            if (System.currentTimeMillis() > deadline) {
+                fail("Stream slot was not released, last status " + stream.status);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private Stream connect(Long lastEventId) throws IOException {
+        Socket socket = new Socket("localhost", port);
+        socket.setSoTimeout((int) WAIT_MILLIS);
+        String request = "GET /api/consultation/journal/stream HTTP/1.0\r\n"
+                + "Accept: text/event-stream\r\n"
+                + (lastEventId == null ? "" : "Last-Event-ID: " + lastEventId + "\r\n")
+                + "\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+        return new Stream(socket);
+    }
+
+    private static class Stream implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final int status;
+
+        Stream(Socket socket) throws IOException {
+            this.socket = socket;
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String statusLine = reader.readLine();
+            this.status = Integer.parseInt(statusLine.split(" ")[1]);
+            // Skip the response headers.
+            for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            }
+        }
+
+        List<String> readUntil(String fragment) throws IOException {
+            List<String> lines = new ArrayList<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+                if (line.contains(fragment)) {
+                    return lines;
+                }
+            }
+            return fail("Stream ended before '" + fragment + "': " + lines);
+        }
+
+        void readToEnd() throws IOException {
+            while (reader.readLine() != null) {
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
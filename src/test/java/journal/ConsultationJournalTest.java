@@ -0,0 +1,247 @@
+package journal;
+
+import com.consultation.journal.ConsultationEvent;
+import com.consultation.journal.ConsultationEventType;
+import com.consultation.journal.ConsultationJournal;
+import com.consultation.journal.JournalSubscriber;
+import com.consultation.journal.JournalSubscription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ConsultationJournalTest {
+
+    private final ConsultationJournal journal = new ConsultationJournal(8);
+
+    @BeforeEach
+    void setUp() {
+        journal.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.stop();
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderToEverySubscriber() throws InterruptedException {
+        var first = new RecordingSubscriber(3);
+        var second = new RecordingSubscriber(3);
+        journal.subscribe(first);
+        journal.subscribe(second);
+
+        journal.recordAnswer("s1", "q1", "no", null);
+        journal.recordAnswer("s1", "q1", "yes", "no");
+        journal.recordDecision("s1", false);
+
+        assertThat(first.await()).isTrue();
+        assertThat(second.await()).isTrue();
+        assertThat(first.events).isEqualTo(second.events);
+        assertThat(first.events)
+                .extracting(ConsultationEvent::type)
+                .containsExactly(
+                        ConsultationEventType.ANSWER_RECORDED,
+                        ConsultationEventType.ANSWER_CHANGED,
+                        ConsultationEventType.DECISION_READ
+                );
+        assertThat(first.events)
+                .extracting(ConsultationEvent::sequence)
+                .containsExactly(0L, 1L, 2L);
+
+        ConsultationEvent changed = first.events.get(1);
+        assertThat(changed.sessionId()).isEqualTo("s1");
+        assertThat(changed.questionId()).isEqualTo("q1");
+        assertThat(changed.value()).isEqualTo("yes");
+        assertThat(changed.previousValue()).isEqualTo("no");
+        assertThat(first.events.get(2).likelyToPrescribe()).isFalse();
+    }
+
+    @Test
+    void shouldTreatResubmittedSameValueAsRecorded() throws InterruptedException {
+        var subscriber = new RecordingSubscriber(1);
+        journal.subscribe(subscriber);
+
+        journal.recordAnswer("s1", "q1", "no", "no");
+
+        assertThat(subscriber.await()).isTrue();
+        assertThat(subscriber.events.get(0).type()).isEqualTo(ConsultationEventType.ANSWER_RECORDED);
+    }
+
+    @Test
+    void shouldNotBlockPublisherWhenSubscriberIsSlow() throws InterruptedException {
+        var firstDelivered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var missed = new AtomicLong();
+        var received = new CopyOnWriteArrayList<ConsultationEvent>();
+        journal.subscribe(new JournalSubscriber() {
+            @Override
+            public void onEvent(ConsultationEvent event) {
+                received.add(event);
+                firstDelivered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void onOverrun(long count) {
+                missed.addAndGet(count);
+            }
+        });
+
+        journal.recordDecision("s1", true);
+        assertThat(firstDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The subscriber is parked on the first event; publishing well past a full ring must still return.
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 100; i++) {
+                journal.recordAnswer("s1", "q3", "headache " + i, null);
+            }
+        });
+        assertThat(release.getCount()).isEqualTo(1);
+        assertThat(received).hasSize(1);
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < 1 + journal.capacity() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThat(missed.get()).isEqualTo(100 - journal.capacity());
+        assertThat(received).hasSize(1 + journal.capacity());
+        assertThat(received.get(received.size() - 1).value()).isEqualTo("headache 99");
+    }
+
+    @Test
+    void shouldReplayFromRequestedSequence() throws InterruptedException {
+        journal.recordDecision("s1", true);
+        journal.recordDecision("s2", false);
+
+        var subscriber = new RecordingSubscriber(1);
+        journal.subscribe(subscriber, 1);
+
+        assertThat(subscriber.await()).isTrue();
+        assertThat(subscriber.events.get(0).sessionId()).isEqualTo("s2");
+    }
+
+    @Test
+    void shouldResumeAfterLastSeenSequence() throws InterruptedException {
+        journal.recordDecision("s1", true);
+        journal.recordDecision("s2", false);
+
+        var subscriber = new RecordingSubscriber(1);
+        journal.resumeAfter(subscriber, 0);
+
+        assertThat(subscriber.await()).isTrue();
+        assertThat(subscriber.events.get(0).sessionId()).isEqualTo("s2");
+    }
+
+    @Test
+    void shouldTreatUnpublishedLastSequenceAsFromNow() throws InterruptedException {
+        journal.recordDecision("s1", true);
+        journal.recordDecision("s2", false);
+
+        var beyondLatest = new RecordingSubscriber(1);
+        var negative = new RecordingSubscriber(1);
+        journal.resumeAfter(beyondLatest, Long.MAX_VALUE);
+        journal.resumeAfter(negative, -5);
+        journal.recordDecision("s3", true);
+
+        assertThat(beyondLatest.await()).isTrue();
+        assertThat(negative.await()).isTrue();
+        assertThat(beyondLatest.events).extracting(ConsultationEvent::sessionId).containsExactly("s3");
+        assertThat(negative.events).extracting(ConsultationEvent::sessionId).containsExactly("s3");
+    }
+
+    @Test
+    void shouldStopDeliveringAfterCancel() throws InterruptedException {
+        var cancelled = new RecordingSubscriber(1);
+        var active = new RecordingSubscriber(2);
+        JournalSubscription subscription = journal.subscribe(cancelled);
+        journal.subscribe(active);
+
+        journal.recordDecision("s1", true);
+        assertThat(cancelled.await()).isTrue();
+
+        subscription.cancel();
+        journal.recordDecision("s2", true);
+
+        assertThat(active.await()).isTrue();
+        assertThat(cancelled.events).hasSize(1);
+    }
+
+    @Test
+    void shouldCallOnIdleWhenNoEventsArriveWithinIdleInterval() throws InterruptedException {
+        var idle = new CountDownLatch(2);
+        journal.subscribe(new JournalSubscriber() {
+            @Override
+            public void onEvent(ConsultationEvent event) {
+            }
+
+            @Override
+            public Duration idleInterval() {
+                return Duration.ofMillis(20);
+            }
+
+            @Override
+            public void onIdle() {
+                idle.countDown();
+            }
+        });
+
+        assertThat(idle.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldDrainPublishedEventsOnStop() throws InterruptedException {
+        var subscriber = new RecordingSubscriber(3);
+        journal.subscribe(subscriber);
+
+        journal.recordDecision("s1", true);
+        journal.recordDecision("s2", true);
+        journal.recordDecision("s3", true);
+        journal.stop();
+
+        assertThat(subscriber.events).hasSize(3);
+        assertThat(journal.isRunning()).isFalse();
+    }
+
+    @Test
+    void shouldRejectCapacityThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new ConsultationJournal(10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Journal capacity must be a power of two: 10");
+    }
+
+    private static class RecordingSubscriber implements JournalSubscriber {
+        private final List<ConsultationEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        RecordingSubscriber(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(ConsultationEvent event) {
+            events.add(event);
+            latch.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package journal;
+
+import com.consultation.journal.ConsultationEvent;
+import com.consultation.journal.ConsultationEventType;
+import com.consultation.journal.FileJournalSubscriber;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileJournalSubscriberTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteEventsAndOverrunsAsJsonLines() throws Exception {
+        Path file = tempDir.resolve("journal/events.jsonl");
+
+        try (var subscriber = new FileJournalSubscriber(file, objectMapper)) {
+            subscriber.onEvent(new ConsultationEvent(
+                    0, ConsultationEventType.ANSWER_CHANGED, Instant.parse("2025-01-01T10:00:00Z"),
+                    "s1", "q1", "yes", "no", null));
+            subscriber.onOverrun(42);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+
+        JsonNode event = objectMapper.readTree(lines.get(0));
+        assertThat(event.get("sequence").asLong()).isEqualTo(0);
+        assertThat(event.get("type").asText()).isEqualTo("ANSWER_CHANGED");
+        assertThat(event.get("timestamp").asText()).isEqualTo("2025-01-01T10:00:00Z");
+        assertThat(event.get("sessionId").asText()).isEqualTo("s1");
+        assertThat(event.get("questionId").asText()).isEqualTo("q1");
+        assertThat(event.get("value").asText()).isEqualTo("yes");
+        assertThat(event.get("previousValue").asText()).isEqualTo("no");
+
+        JsonNode overrun = objectMapper.readTree(lines.get(1));
+        assertThat(overrun.get("type").asText()).isEqualTo("OVERRUN");
+        assertThat(overrun.get("missed").asLong()).isEqualTo(42);
+        assertThat(overrun.hasNonNull("timestamp")).isTrue();
+    }
+
+    @Test
+    void shouldAppendToExistingFile() throws Exception {
+        Path file = tempDir.resolve("events.jsonl");
+        Files.writeString(file, "{\"type\":\"DECISION_READ\"}\n");
+
+        try (var subscriber = new FileJournalSubscriber(file, objectMapper)) {
+            subscriber.onOverrun(1);
+        }
+
+        assertThat(Files.readAllLines(file))
+                .hasSize(2)
+                .first().isEqualTo("{\"type\":\"DECISION_READ\"}");
+    }
+}
@@ -0,0 +1,84 @@
+package journal;
+
+import com.consultation.journal.ConsultationEvent;
+import com.consultation.journal.ConsultationEventType;
+import com.consultation.journal.SessionIdPseudonymizer;
+import com.consultation.journal.SseJournalSubscriber;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SseJournalSubscriberTest {
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final SseJournalSubscriber subscriber = new SseJournalSubscriber(
+            emitter, new SessionIdPseudonymizer(), Duration.ofSeconds(15), failures::incrementAndGet);
+
+    @Test
+    void shouldSendEventWithPseudonymizedSessionId() throws IOException {
+        subscriber.onEvent(decision("s1"));
+
+        var captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter).send(captor.capture());
+
+        ConsultationEvent sent = captor.getValue().build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(ConsultationEvent.class::isInstance)
+                .map(ConsultationEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(sent.sequence()).isEqualTo(7);
+        assertThat(sent.sessionId()).isNotEqualTo("s1").hasSize(32);
+    }
+
+    @Test
+    void shouldUseSamePseudonymForSameSession() {
+        var pseudonymizer = new SessionIdPseudonymizer();
+
+        assertThat(pseudonymizer.pseudonymize("s1"))
+                .isEqualTo(pseudonymizer.pseudonymize("s1"))
+                .isNotEqualTo(pseudonymizer.pseudonymize("s2"));
+    }
+
+    @Test
+    void shouldSendHeartbeatCommentWhenIdle() throws IOException {
+        subscriber.onIdle();
+
+        var captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter).send(captor.capture());
+        assertThat(captor.getValue().build())
+                .extracting(ResponseBodyEmitter.DataWithMediaType::getData)
+                .containsExactly(":heartbeat\n\n");
+        assertThat(subscriber.idleInterval()).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void shouldCompleteWithErrorAndReleaseStreamWhenSendFails() throws IOException {
+        var broken = new IOException("Broken pipe");
+        doThrow(broken).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        subscriber.onEvent(decision("s1"));
+        subscriber.onIdle();
+        subscriber.onOverrun(3);
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).completeWithError(broken);
+        assertThat(failures.get()).isEqualTo(1);
+    }
+
+    private static ConsultationEvent decision(String sessionId) {
+        return new ConsultationEvent(7, ConsultationEventType.DECISION_READ, Instant.now(),
+                sessionId, null, null, null, true);
+    }
+}
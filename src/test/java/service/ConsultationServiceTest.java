@@ -3,6 +3,7 @@ package service;
 import com.consultation.dto.AnswerDto;
 import com.consultation.dto.PrescriptionDecisionDto;
 import com.consultation.dto.QuestionDto;
+import com.consultation.journal.ConsultationJournal;
 import com.consultation.model.Answer;
 import com.consultation.model.ConsultationSession;
 import com.consultation.repository.InMemoryConsultationSessionRepository;
@@ -23,11 +24,13 @@ class ConsultationServiceTest {
     private final InMemoryConsultationSessionRepository sessionRepository =
             mock(InMemoryConsultationSessionRepository.class);
 
+    private final ConsultationJournal journal = mock(ConsultationJournal.class);
+
     private ConsultationService service;
 
     @BeforeEach
     void setUp() {
-        service = new ConsultationService(sessionRepository);
+        service = new ConsultationService(sessionRepository, journal);
     }
 
     @Test
@@ -61,6 +64,55 @@ class ConsultationServiceTest {
         assertThat(saved.answers()).hasSize(2);
         assertThat(saved.answers().get(0).questionId()).isEqualTo("q1");
         assertThat(saved.answers().get(1).questionId()).isEqualTo("q2");
+
+        verify(journal).recordAnswer("s1", "q1", "no", null);
+        verify(journal).recordAnswer("s1", "q2", "no", null);
+    }
+
+    @Test
+    void shouldNotJournalAnswersWhenSaveFails() {
+        when(sessionRepository.findById("s1"))
+                .thenReturn(Optional.empty());
+        when(sessionRepository.save(any()))
+                .thenThrow(new IllegalStateException("store unavailable"));
+
+        assertThatThrownBy(() -> service.submitAnswers("s1", List.of(new AnswerDto("q1", "no"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(journal);
+    }
+
+    @Test
+    void shouldJournalPreviousValueWhenAnswerChanges() {
+        var session = new ConsultationSession("s1");
+        session.addAnswer(new Answer("q1", "no"));
+
+        when(sessionRepository.findById("s1"))
+                .thenReturn(Optional.of(session));
+
+        service.submitAnswers("s1", List.of(new AnswerDto("q1", "yes")));
+
+        verify(journal).recordAnswer("s1", "q1", "yes", "no");
+        assertThat(session.answers())
+                .containsExactly(new Answer("q1", "yes"));
+    }
+
+    @Test
+    void shouldDecideOnLatestAnswerAfterAnswerChanges() {
+        var session = new ConsultationSession("s1");
+        session.addAnswer(new Answer("q1", "yes"));
+        session.addAnswer(new Answer("q2", "no"));
+        session.addAnswer(new Answer("q3", "headache"));
+
+        when(sessionRepository.findById("s1"))
+                .thenReturn(Optional.of(session));
+
+        service.submitAnswers("s1", List.of(new AnswerDto("q1", "no")));
+        PrescriptionDecisionDto decision = service.getPrescriptionDecision("s1");
+
+        assertThat(decision.likelyToPrescribe()).isTrue();
+        verify(journal).recordAnswer("s1", "q1", "no", "yes");
+        verify(journal).recordDecision("s1", true);
     }
 
     @Test
@@ -83,6 +135,7 @@ class ConsultationServiceTest {
 
         assertThat(decision.likelyToPrescribe()).isTrue();
         assertThat(decision.reasons()).isEmpty();
+        verify(journal).recordDecision("s1", true);
     }
 
     @Test
@@ -93,6 +146,7 @@ class ConsultationServiceTest {
         assertThatThrownBy(() -> service.getPrescriptionDecision("unknown"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Session not found: unknown");
+        verifyNoInteractions(journal);
     }
 
     @Test